@@ -0,0 +1,50 @@
+-- Benchmark de escala da tabela produtos (plana x particionada).
+-- Rodar em um banco local descartável, antes e depois de produtos_particionado.sql:
+--   psql -v linhas=1000000 -f benchmark.sql productdb
+--   psql -v linhas=10000000 -f benchmark.sql productdb
+
+\timing on
+
+-- remove os produtos de uma execução anterior (nome é único, inclusive via produtos_nomes)
+DELETE FROM produtos WHERE nome LIKE 'Produto bench %';
+
+INSERT INTO categorias (nome)
+SELECT 'Categoria bench ' || c FROM generate_series(1, 200) c
+ON CONFLICT DO NOTHING;
+
+INSERT INTO produtos (nome, preco, categoria_id)
+SELECT 'Produto bench ' || g,
+       round((random() * 10000)::numeric, 2),
+       c.id
+FROM generate_series(1, :linhas) g
+JOIN (SELECT id, row_number() OVER (ORDER BY id) - 1 AS n
+      FROM categorias WHERE nome LIKE 'Categoria bench %') c ON c.n = g % 200;
+
+VACUUM ANALYZE produtos;
+
+-- tabela + índices (somando as partições, se houver) e a tabela de nomes do layout particionado.
+-- pg_partition_tree não retorna linhas para tabela comum, por isso o UNION com a própria produtos.
+SELECT pg_size_pretty(sum(pg_total_relation_size(r.relid))) AS tamanho_produtos,
+       pg_size_pretty(COALESCE(pg_total_relation_size(to_regclass('produtos_nomes')), 0)) AS tamanho_produtos_nomes
+FROM (SELECT relid FROM pg_partition_tree('produtos')
+      UNION
+      SELECT 'produtos'::regclass) r;
+
+-- findByCategoriaId: no layout particionado só uma partição é executada (as demais aparecem como "never executed")
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM produtos
+WHERE categoria_id = (SELECT id FROM categorias WHERE nome = 'Categoria bench 42');
+
+-- listagem filtrada por categoria e faixa de preço (índice categoria_id, preco, id)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM produtos
+WHERE categoria_id = (SELECT id FROM categorias WHERE nome = 'Categoria bench 42')
+  AND preco BETWEEN 100 AND 200
+ORDER BY preco, id
+LIMIT 50;
+
+-- busca por ID sem categoria: consulta o índice da PK em todas as partições
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM produtos WHERE id = (SELECT max(id) - :linhas / 2 FROM produtos);
+
+\timing off
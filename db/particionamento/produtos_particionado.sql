@@ -0,0 +1,71 @@
+-- Converte a tabela produtos em tabela particionada por HASH(categoria_id).
+-- Opcional e executado uma única vez (psql -f), com a aplicação parada.
+-- Depois suba a aplicação com o profile "particionado".
+--
+-- O PostgreSQL exige que a chave de partição faça parte de toda PK/UNIQUE,
+-- então a PK passa a ser (id, categoria_id) e a unicidade global do nome
+-- fica na tabela produtos_nomes, mantida por trigger.
+
+BEGIN;
+
+ALTER TABLE produtos RENAME TO produtos_antiga;
+
+CREATE SEQUENCE IF NOT EXISTS produtos_particionada_id_seq;
+
+CREATE TABLE produtos (
+    id           bigint        NOT NULL DEFAULT nextval('produtos_particionada_id_seq'),
+    nome         varchar(255)  NOT NULL,
+    preco        numeric(38,2) NOT NULL,
+    categoria_id bigint        NOT NULL REFERENCES categorias (id),
+    PRIMARY KEY (id, categoria_id)
+) PARTITION BY HASH (categoria_id);
+
+ALTER SEQUENCE produtos_particionada_id_seq OWNED BY produtos.id;
+
+-- 16 partições; cada consulta com categoria_id = ? lê só uma delas
+DO $$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE produtos_p%s PARTITION OF produtos FOR VALUES WITH (MODULUS 16, REMAINDER %s)', i, i);
+    END LOOP;
+END $$;
+
+INSERT INTO produtos (id, nome, preco, categoria_id)
+SELECT id, nome, preco, categoria_id FROM produtos_antiga;
+
+SELECT setval('produtos_particionada_id_seq', COALESCE((SELECT max(id) FROM produtos), 0) + 1, false);
+
+DROP TABLE produtos_antiga;
+
+-- mesmos índices declarados em Produto (@Table)
+CREATE INDEX idx_produtos_categoria_preco_id ON produtos (categoria_id, preco, id);
+CREATE INDEX idx_produtos_preco_id ON produtos (preco, id);
+CREATE INDEX idx_produtos_categoria_nome_id ON produtos (categoria_id, nome, id);
+
+-- Unicidade global do nome (substitui o UNIQUE(nome) da tabela antiga)
+CREATE TABLE produtos_nomes (
+    nome       varchar(255) PRIMARY KEY,
+    produto_id bigint       NOT NULL UNIQUE
+);
+
+INSERT INTO produtos_nomes (nome, produto_id)
+SELECT nome, id FROM produtos;
+
+CREATE OR REPLACE FUNCTION produtos_nomes_sincronizar() RETURNS trigger AS $$
+BEGIN
+    -- troca de categoria move a linha entre partições: chega aqui como DELETE + INSERT
+    IF TG_OP IN ('DELETE', 'UPDATE') THEN
+        DELETE FROM produtos_nomes WHERE produto_id = OLD.id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO produtos_nomes (nome, produto_id) VALUES (NEW.nome, NEW.id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER produtos_nomes_sincronizar
+    AFTER INSERT OR UPDATE OF nome OR DELETE ON produtos
+    FOR EACH ROW EXECUTE FUNCTION produtos_nomes_sincronizar();
+
+COMMIT;
@@ -2,6 +2,7 @@
 package com.example.productapi.controller;
 
 import com.example.productapi.dto.CategoriaDTO;
+import com.example.productapi.dto.CategoriaResumoDTO;
 import com.example.productapi.dto.ProdutoDTO;
 import com.example.productapi.service.CategoriaService;
 import com.example.productapi.service.ProdutoService;
@@ -45,14 +46,21 @@ public class CategoriaController {
     }
 
     @Operation(summary = "Lista todas as categorias",
-               description = "Retorna lista de todas as categorias de produtos que estao cadastrados.",
+               description = "Retorna lista de todas as categorias de produtos que estao cadastrados. "
+                       + "Com incluir=contagem,preview traz também a quantidade de produtos e os primeiros 'limite' produtos de cada categoria.",
                responses = {
                    @ApiResponse(responseCode = "200", description = "Lista de categorias retornada",
-                                content = @Content(mediaType = "application/json", schema = @Schema(implementation = CategoriaDTO.class)))
+                                content = @Content(mediaType = "application/json", schema = @Schema(implementation = CategoriaResumoDTO.class))),
+                   @ApiResponse(responseCode = "400", description = "Parâmetro 'incluir' ou 'limite' inválido",
+                                content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Valor inválido em incluir: 'x'. Use 'contagem' e/ou 'preview'.\",\"details\":\"...\"}")))
                })
     @GetMapping
-    public ResponseEntity<List<CategoriaDTO>> listarTodasCategorias() {
-        List<CategoriaDTO> categorias = categoriaService.listarTodasCategorias();
+    public ResponseEntity<List<CategoriaResumoDTO>> listarTodasCategorias(
+            @Parameter(description = "Dados extras: contagem e/ou preview (separados por vírgula)")
+            @RequestParam(required = false) List<String> incluir,
+            @Parameter(description = "Quantidade de produtos no preview de cada categoria (1-20)")
+            @RequestParam(defaultValue = "3") int limite) {
+        List<CategoriaResumoDTO> categorias = categoriaService.listarCategoriasComResumo(incluir, limite);
         return ResponseEntity.ok(categorias);
     }
 
@@ -2,6 +2,7 @@ package com.example.productapi.controller;
 
 import com.example.productapi.dto.ProdutoDTO;
 import com.example.productapi.dto.ProdutoDescontoDTO;
+import com.example.productapi.dto.ProdutoFiltroDTO;
 import com.example.productapi.service.ProdutoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -61,15 +62,33 @@ public class ProdutoController {
         return ResponseEntity.ok(produtoAtualizado);
     }
 
-    @Operation(summary = "Lista todos os produtos",
-               description = "Retorna lista dos produtos cadastrados.",
+    @Operation(summary = "Lista os produtos",
+               description = "Retorna lista dos produtos cadastrados. Com filtros (preço, categoria, ordenação) retorna no máximo 'limite' produtos; "
+                       + "para a próxima página envie o ID e o preço/nome do último produto recebido em 'aposId' e 'aposPreco'/'aposNome'.",
                responses = {
                    @ApiResponse(responseCode = "200", description = "Lista de produtos retornada !",
-                                content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProdutoDTO.class)))
+                                content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProdutoDTO.class))),
+                   @ApiResponse(responseCode = "400", description = "Filtro inválido",
+                                content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Ordenação inválida 'x'. Use 'preco' ou 'nome'.\",\"details\":\"...\"}"))),
+                   @ApiResponse(responseCode = "404", description = "Categoria do filtro não encontrada",
+                                content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Categoria não encontrada com ID: 1\",\"details\":\"...\"}")))
                })
     @GetMapping
-    public ResponseEntity<List<ProdutoDTO>> listarTodosProdutos() {
-        List<ProdutoDTO> produtos = produtoService.listarTodosProdutos();
+    public ResponseEntity<List<ProdutoDTO>> listarTodosProdutos(
+            @Parameter(description = "Preço mínimo") @RequestParam(required = false) BigDecimal precoMin,
+            @Parameter(description = "Preço máximo") @RequestParam(required = false) BigDecimal precoMax,
+            @Parameter(description = "ID da categoria") @RequestParam(required = false) Long categoriaId,
+            @Parameter(description = "Ordenação: preco ou nome (padrão preco)") @RequestParam(required = false) String ordenarPor,
+            @Parameter(description = "Preço do último produto da página anterior") @RequestParam(required = false) BigDecimal aposPreco,
+            @Parameter(description = "Nome do último produto da página anterior") @RequestParam(required = false) String aposNome,
+            @Parameter(description = "ID do último produto da página anterior") @RequestParam(required = false) Long aposId,
+            @Parameter(description = "Quantidade máxima de produtos (padrão 50, máximo 500)") @RequestParam(required = false) Integer limite) {
+        ProdutoFiltroDTO filtro = new ProdutoFiltroDTO(precoMin, precoMax, categoriaId, ordenarPor, aposPreco, aposNome, aposId, limite);
+        // Sem nenhum parâmetro mantém o comportamento antigo (lista completa)
+        if (filtro.equals(new ProdutoFiltroDTO())) {
+            return ResponseEntity.ok(produtoService.listarTodosProdutos());
+        }
+        List<ProdutoDTO> produtos = produtoService.listarProdutosFiltrados(filtro);
         return ResponseEntity.ok(produtos);
     }
 
@@ -79,7 +98,9 @@ public class ProdutoController {
                    @ApiResponse(responseCode = "200", description = "Produto encontrado !",
                                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProdutoDTO.class))),
                    @ApiResponse(responseCode = "404", description = "Produto não encontrado",
-                                content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Produto não encontrado com ID: 1\",\"details\":\"...\"}")))
+                                content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Produto não encontrado com ID: 1\",\"details\":\"...\"}"))),
+                   @ApiResponse(responseCode = "503", description = "Tempo de espera esgotado aguardando leitura do mesmo produto",
+                                content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Tempo de espera esgotado aguardando a mesma leitura em andamento. Tente novamente.\",\"details\":\"...\"}")))
                })
     @GetMapping("/{id}")
     public ResponseEntity<ProdutoDTO> buscarProdutoPorId(
@@ -111,7 +132,9 @@ public class ProdutoController {
                    @ApiResponse(responseCode = "400", description = "Percentual de desconto inválido",
                                 content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"O desconto deve ser entre 0 e 50%.\",\"details\":\"...\"}"))),
                    @ApiResponse(responseCode = "404", description = "Produto não encontrado",
-                                content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Produto não encontrado com ID: 1\",\"details\":\"...\"}")))
+                                content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Produto não encontrado com ID: 1\",\"details\":\"...\"}"))),
+                   @ApiResponse(responseCode = "503", description = "Tempo de espera esgotado aguardando leitura do mesmo produto",
+                                content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Tempo de espera esgotado aguardando a mesma leitura em andamento. Tente novamente.\",\"details\":\"...\"}")))
                })
     @GetMapping("/{id}/desconto") 
     public ResponseEntity<ProdutoDescontoDTO> calcularPrecoComDesconto(
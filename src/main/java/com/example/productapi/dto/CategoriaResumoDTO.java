@@ -0,0 +1,20 @@
+package com.example.productapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+// Categoria com contagem e/ou primeiros produtos; campos não pedidos em 'incluir' ficam fora do JSON
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CategoriaResumoDTO {
+    private Long id;
+    private String nome;
+    private Long quantidadeProdutos;
+    private List<ProdutoDTO> produtos;
+}
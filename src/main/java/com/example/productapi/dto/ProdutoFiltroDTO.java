@@ -0,0 +1,24 @@
+package com.example.productapi.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProdutoFiltroDTO {
+    private BigDecimal precoMin;
+    private BigDecimal precoMax;
+    private Long categoriaId;
+    private String ordenarPor; // "preco" ou "nome"
+
+    // continuação (keyset): valores do último produto da página anterior
+    private BigDecimal aposPreco;
+    private String aposNome;
+    private Long aposId;
+
+    private Integer limite;
+}
@@ -4,11 +4,17 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
 
 import java.math.BigDecimal;
 
 @Entity 
-@Table(name = "produtos") 
+// índices para filtro por preço/categoria com continuação por (valor, id)
+@Table(name = "produtos", indexes = {
+        @Index(name = "idx_produtos_categoria_preco_id", columnList = "categoria_id, preco, id"),
+        @Index(name = "idx_produtos_preco_id", columnList = "preco, id"),
+        @Index(name = "idx_produtos_categoria_nome_id", columnList = "categoria_id, nome, id")
+})
 @Data 
 @NoArgsConstructor // Gera construtor sem argumentos 
 @AllArgsConstructor // Gera construtor com argumentos 
@@ -26,4 +32,10 @@ public class Produto {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "categoria_id", nullable = false) 
     private Categoria categoria;
+
+    // Chave de partição (profile "particionado"): entra no WHERE de update/delete para o banco ir direto na partição.
+    // Somente leitura, quem grava a coluna é o relacionamento acima.
+    @PartitionKey
+    @Column(name = "categoria_id", insertable = false, updatable = false)
+    private Long categoriaId;
 }
@@ -0,0 +1,25 @@
+package com.example.productapi.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// Critérios já validados e com padrões resolvidos para ProdutoRepository.buscarPorFiltro.
+// Campos nulos (exceto ordenação e limite) significam "sem esse filtro".
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProdutoCriteriosBusca {
+    private Long categoriaId;
+    private BigDecimal precoMin;
+    private BigDecimal precoMax;
+    private boolean ordenarPorNome;
+
+    // continuação: valor do campo ordenado (preço ou nome) e ID do último produto da página anterior
+    private Object aposValor;
+    private Long aposId;
+
+    private int limite;
+}
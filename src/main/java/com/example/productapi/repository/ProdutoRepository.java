@@ -2,16 +2,36 @@ package com.example.productapi.repository;
 
 import com.example.productapi.model.Produto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository // repositório Spring
-public interface ProdutoRepository extends JpaRepository<Produto, Long> {
+public interface ProdutoRepository extends JpaRepository<Produto, Long>, ProdutoRepositoryCustom {
     Optional<Produto> findByNomeIgnoreCase(String nome);
 
     List<Produto> findByNomeContainingIgnoreCase(String nome);
   
     List<Produto> findByCategoriaId(Long categoriaId);
+
+    // Uma única consulta para todas as categorias (categorias sem produto não aparecem)
+    @Query("select p.categoria.id as categoriaId, count(p) as quantidade from Produto p group by p.categoria.id")
+    List<ContagemPorCategoria> contarPorCategoria();
+
+    // Primeiros 'limite' produtos (por nome) de cada categoria
+    @Query(value = "select id, nome, preco, categoria_id from ("
+            + " select p.id, p.nome, p.preco, p.categoria_id,"
+            + " row_number() over (partition by p.categoria_id order by p.nome, p.id) as posicao"
+            + " from produtos p) t"
+            + " where posicao <= :limite order by categoria_id, posicao", nativeQuery = true)
+    List<Produto> buscarPrimeirosPorCategoria(@Param("limite") int limite);
+
+    interface ContagemPorCategoria {
+        Long getCategoriaId();
+
+        Long getQuantidade();
+    }
 }
@@ -0,0 +1,9 @@
+package com.example.productapi.repository;
+
+import com.example.productapi.model.Produto;
+
+import java.util.List;
+
+public interface ProdutoRepositoryCustom {
+    List<Produto> buscarPorFiltro(ProdutoCriteriosBusca criterios);
+}
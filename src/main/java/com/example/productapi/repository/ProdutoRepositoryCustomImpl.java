@@ -0,0 +1,55 @@
+package com.example.productapi.repository;
+
+import com.example.productapi.model.Produto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Monta a consulta só com os filtros informados (sem "param is null or ..."),
+// assim o banco consegue usar os índices compostos de produtos como range scan.
+public class ProdutoRepositoryCustomImpl implements ProdutoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Produto> buscarPorFiltro(ProdutoCriteriosBusca criterios) {
+        List<String> condicoes = new ArrayList<>();
+        Map<String, Object> parametros = new HashMap<>();
+
+        if (criterios.getCategoriaId() != null) {
+            condicoes.add("p.categoria.id = :categoriaId");
+            parametros.put("categoriaId", criterios.getCategoriaId());
+        }
+        if (criterios.getPrecoMin() != null) {
+            condicoes.add("p.preco >= :precoMin");
+            parametros.put("precoMin", criterios.getPrecoMin());
+        }
+        if (criterios.getPrecoMax() != null) {
+            condicoes.add("p.preco <= :precoMax");
+            parametros.put("precoMax", criterios.getPrecoMax());
+        }
+        if (criterios.getAposId() != null) {
+            condicoes.add(criterios.isOrdenarPorNome()
+                    ? "(p.nome, p.id) > (:aposValor, :aposId)"
+                    : "(p.preco, p.id) > (:aposValor, :aposId)");
+            parametros.put("aposValor", criterios.getAposValor());
+            parametros.put("aposId", criterios.getAposId());
+        }
+
+        StringBuilder jpql = new StringBuilder("select p from Produto p");
+        if (!condicoes.isEmpty()) {
+            jpql.append(" where ").append(String.join(" and ", condicoes));
+        }
+        jpql.append(criterios.isOrdenarPorNome() ? " order by p.nome, p.id" : " order by p.preco, p.id");
+
+        TypedQuery<Produto> query = entityManager.createQuery(jpql.toString(), Produto.class);
+        parametros.forEach(query::setParameter);
+        return query.setMaxResults(criterios.getLimite()).getResultList();
+    }
+}
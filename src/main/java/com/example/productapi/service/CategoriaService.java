@@ -1,15 +1,20 @@
 package com.example.productapi.service;
 
 import com.example.productapi.dto.CategoriaDTO;
+import com.example.productapi.dto.CategoriaResumoDTO;
+import com.example.productapi.dto.ProdutoDTO;
 import com.example.productapi.exception.BusinessRuleException;
 import com.example.productapi.exception.ResourceNotFoundException;
 import com.example.productapi.model.Categoria;
 import com.example.productapi.repository.CategoriaRepository;
+import com.example.productapi.repository.ProdutoRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service 
@@ -18,6 +23,11 @@ public class CategoriaService {
     @Autowired
     private CategoriaRepository categoriaRepository;
 
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    private static final int LIMITE_PREVIEW_MAXIMO = 20;
+
     private CategoriaDTO toDTO(Categoria categoria) {
         return new CategoriaDTO(categoria.getId(), categoria.getNome());
     }
@@ -39,10 +49,44 @@ public class CategoriaService {
         return toDTO(categoriaRepository.save(categoria));
     }
 
-    @Transactional(readOnly = true) 
-    public List<CategoriaDTO> listarTodasCategorias() {
+    // Contagem e preview de todas as categorias em no máximo 3 consultas, sem carregar Categoria.produtos
+    @Transactional(readOnly = true)
+    public List<CategoriaResumoDTO> listarCategoriasComResumo(List<String> incluir, int limite) {
+        // aceita "contagem, preview" (com espaço depois da vírgula)
+        List<String> extras = incluir == null ? List.of() : incluir.stream()
+                .map(String::trim)
+                .filter(extra -> !extra.isEmpty())
+                .collect(Collectors.toList());
+        for (String extra : extras) {
+            if (!extra.equals("contagem") && !extra.equals("preview")) {
+                throw new BusinessRuleException("Valor inválido em incluir: '" + extra + "'. Use 'contagem' e/ou 'preview'.");
+            }
+        }
+        boolean incluirContagem = extras.contains("contagem");
+        boolean incluirPreview = extras.contains("preview");
+
+        if (incluirPreview && (limite < 1 || limite > LIMITE_PREVIEW_MAXIMO)) {
+            throw new BusinessRuleException("O limite do preview deve ser entre 1 e " + LIMITE_PREVIEW_MAXIMO + ".");
+        }
+
+        Map<Long, Long> contagens = incluirContagem
+                ? produtoRepository.contarPorCategoria().stream()
+                        .collect(Collectors.toMap(ProdutoRepository.ContagemPorCategoria::getCategoriaId,
+                                ProdutoRepository.ContagemPorCategoria::getQuantidade))
+                : Collections.emptyMap();
+
+        Map<Long, List<ProdutoDTO>> previews = incluirPreview
+                ? produtoRepository.buscarPrimeirosPorCategoria(limite).stream()
+                        .collect(Collectors.groupingBy(produto -> produto.getCategoria().getId(),
+                                Collectors.mapping(ProdutoService::toDTO, Collectors.toList())))
+                : Collections.emptyMap();
+
         return categoriaRepository.findAll().stream()
-                .map(this::toDTO)
+                .map(categoria -> new CategoriaResumoDTO(
+                        categoria.getId(),
+                        categoria.getNome(),
+                        incluirContagem ? contagens.getOrDefault(categoria.getId(), 0L) : null,
+                        incluirPreview ? previews.getOrDefault(categoria.getId(), Collections.emptyList()) : null))
                 .collect(Collectors.toList());
     }
 
@@ -2,19 +2,25 @@ package com.example.productapi.service;
 
 import com.example.productapi.dto.ProdutoDTO;
 import com.example.productapi.dto.ProdutoDescontoDTO;
+import com.example.productapi.dto.ProdutoFiltroDTO;
 import com.example.productapi.exception.BusinessRuleException;
 import com.example.productapi.exception.ResourceNotFoundException;
 import com.example.productapi.model.Categoria;
 import com.example.productapi.model.Produto;
 import com.example.productapi.repository.CategoriaRepository;
+import com.example.productapi.repository.ProdutoCriteriosBusca;
 import com.example.productapi.repository.ProdutoRepository;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service //
@@ -26,7 +32,22 @@ public class ProdutoService {
     @Autowired 
     private CategoriaRepository categoriaRepository;
 
-    private ProdutoDTO toDTO(Produto produto) {
+    private static final int LIMITE_PADRAO = 50;
+    private static final int LIMITE_MAXIMO = 500;
+
+    // Leituras simultâneas do mesmo produto compartilham uma única consulta ao banco
+    @Value("${produtos.leitura.espera-maxima:2s}")
+    private Duration esperaMaximaLeitura;
+
+    private SingleFlight<Long, Optional<ProdutoDTO>> leiturasPorId;
+
+    @PostConstruct
+    void iniciarLeituras() {
+        leiturasPorId = new SingleFlight<>(esperaMaximaLeitura);
+    }
+
+    // também usado por CategoriaService no preview de produtos das categorias
+    static ProdutoDTO toDTO(Produto produto) {
         return new ProdutoDTO(produto.getId(), produto.getNome(), produto.getPreco(), produto.getCategoria().getId());
     }
 
@@ -36,6 +57,7 @@ public class ProdutoService {
         produto.setNome(produtoDTO.getNome());
         produto.setPreco(produtoDTO.getPreco());
         produto.setCategoria(categoria);
+        produto.setCategoriaId(categoria.getId());
         return produto;
     }
 
@@ -84,28 +106,54 @@ public class ProdutoService {
     @Transactional(readOnly = true) 
     public List<ProdutoDTO> listarTodosProdutos() {
         return produtoRepository.findAll().stream()
-                .map(this::toDTO)
+                .map(ProdutoService::toDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
+    public List<ProdutoDTO> listarProdutosFiltrados(ProdutoFiltroDTO filtro) {
+        validarFiltro(filtro);
+        boolean ordenarPorNome = "nome".equals(filtro.getOrdenarPor());
+        int limite = filtro.getLimite() != null ? filtro.getLimite() : LIMITE_PADRAO;
+
+        // Mesmo comportamento de /api/categorias/{id}/produtos: categoria inexistente é 404, não lista vazia
+        if (filtro.getCategoriaId() != null && !categoriaRepository.existsById(filtro.getCategoriaId())) {
+            throw new ResourceNotFoundException("Categoria não encontrada com ID: " + filtro.getCategoriaId());
+        }
+        ProdutoCriteriosBusca criterios = new ProdutoCriteriosBusca(
+                filtro.getCategoriaId(),
+                filtro.getPrecoMin(),
+                filtro.getPrecoMax(),
+                ordenarPorNome,
+                ordenarPorNome ? filtro.getAposNome() : filtro.getAposPreco(),
+                filtro.getAposId(),
+                limite);
+        return produtoRepository.buscarPorFiltro(criterios).stream()
+                .map(ProdutoService::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    // Sem @Transactional: quem aguarda uma leitura em andamento não abre transação própria,
+    // a única transação é a do findById executado pelo líder
     public ProdutoDTO buscarProdutoPorId(Long id) {
-        Produto produto = produtoRepository.findById(id)
+        return carregarProduto(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Produto não localizado com ID: " + id));
-        return toDTO(produto);
+    }
+
+    private Optional<ProdutoDTO> carregarProduto(Long id) {
+        return leiturasPorId.executar(id, () -> produtoRepository.findById(id).map(ProdutoService::toDTO));
     }
 
     @Transactional(readOnly = true)
     public List<ProdutoDTO> buscarProdutosPorNome(String nome) {
         // Se nada for encontrado, retornar lista vazia pra n lançar erro
         return produtoRepository.findByNomeContainingIgnoreCase(nome).stream()
-                .map(this::toDTO)
+                .map(ProdutoService::toDTO)
                 .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
     public ProdutoDescontoDTO calcularPrecoComDesconto(Long id, BigDecimal percentual) {
-        Produto produto = produtoRepository.findById(id)
+        ProdutoDTO produto = carregarProduto(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Produto não encontrado com ID: " + id));
 
         // Regra de negócio: Não permitir descontos maiores que 50%.
@@ -132,7 +180,7 @@ public class ProdutoService {
             throw new ResourceNotFoundException("Categoria não encontrada com ID: " + categoriaId);
         }
         return produtoRepository.findByCategoriaId(categoriaId).stream()
-                .map(this::toDTO)
+                .map(ProdutoService::toDTO)
                 .collect(Collectors.toList());
     }
 
@@ -144,6 +192,31 @@ public class ProdutoService {
         produtoRepository.deleteById(id);
     }
 
+    private void validarFiltro(ProdutoFiltroDTO filtro) {
+        String ordenarPor = filtro.getOrdenarPor() != null ? filtro.getOrdenarPor() : "preco";
+        if (!ordenarPor.equals("preco") && !ordenarPor.equals("nome")) {
+            throw new BusinessRuleException("Ordenação inválida '" + ordenarPor + "'. Use 'preco' ou 'nome'.");
+        }
+        if (filtro.getPrecoMin() != null && filtro.getPrecoMax() != null
+                && filtro.getPrecoMin().compareTo(filtro.getPrecoMax()) > 0) {
+            throw new BusinessRuleException("O preço mínimo não pode ser maior que o preço máximo.");
+        }
+        // Continuação: o último produto da página anterior é identificado pelo valor ordenado + ID.
+        // Cursor incompleto ou do campo errado é erro, senão o cliente recebe a primeira página de novo.
+        String campoCursor = ordenarPor.equals("nome") ? "aposNome" : "aposPreco";
+        boolean temValorCursor = ordenarPor.equals("nome") ? filtro.getAposNome() != null : filtro.getAposPreco() != null;
+        boolean temValorOutroCampo = ordenarPor.equals("nome") ? filtro.getAposPreco() != null : filtro.getAposNome() != null;
+        if (temValorOutroCampo) {
+            throw new BusinessRuleException("Com ordenarPor=" + ordenarPor + " a continuação usa 'aposId' e '" + campoCursor + "'.");
+        }
+        if ((filtro.getAposId() != null) != temValorCursor) {
+            throw new BusinessRuleException("Para continuar a listagem informe 'aposId' junto com '" + campoCursor + "'.");
+        }
+        if (filtro.getLimite() != null && (filtro.getLimite() < 1 || filtro.getLimite() > LIMITE_MAXIMO)) {
+            throw new BusinessRuleException("O limite deve ser entre 1 e " + LIMITE_MAXIMO + ".");
+        }
+    }
+
   
     private void validarRegrasDeNegocio(String nome, BigDecimal preco, Long currentProductId) {
 
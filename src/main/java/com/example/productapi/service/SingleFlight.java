@@ -0,0 +1,71 @@
+package com.example.productapi.service;
+
+import com.example.productapi.exception.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Junta chamadas simultâneas para a mesma chave em uma única execução (single-flight).
+// Não é cache: assim que a execução termina a chave sai do mapa e a próxima chamada executa de novo.
+// Mas quem chega no meio de uma leitura recebe o resultado dela, mesmo que a leitura tenha começado antes
+// de uma escrita que a própria chamada já viu confirmada: um PUT seguido de GET no mesmo ID, enquanto outra
+// leitura desse ID está em andamento, pode devolver o valor antigo (por exemplo o preço anterior).
+class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+
+    private final long esperaMaximaNanos;
+
+    SingleFlight(Duration esperaMaxima) {
+        this.esperaMaximaNanos = esperaMaxima.toNanos();
+    }
+
+    V executar(K chave, Supplier<V> carregador) {
+        CompletableFuture<V> novo = new CompletableFuture<>();
+        CompletableFuture<V> existente = emAndamento.putIfAbsent(chave, novo);
+        if (existente == null) {
+            return liderar(chave, novo, carregador);
+        }
+        return aguardar(existente);
+    }
+
+    private V liderar(K chave, CompletableFuture<V> resultado, Supplier<V> carregador) {
+        try {
+            V valor = carregador.get();
+            resultado.complete(valor);
+            return valor;
+        } catch (RuntimeException | Error e) {
+            resultado.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, resultado);
+        }
+    }
+
+    // Espera limitada: se o líder demorar demais a chamada falha (503) em vez de ir ao banco por conta própria,
+    // senão um banco lento faria todos os que aguardam consultarem ao mesmo tempo
+    private V aguardar(CompletableFuture<V> existente) {
+        try {
+            return existente.get(esperaMaximaNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException("Tempo de espera esgotado aguardando a mesma leitura em andamento. Tente novamente.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Leitura interrompida enquanto aguardava outra requisição", e);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (causa instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(causa);
+        }
+    }
+}
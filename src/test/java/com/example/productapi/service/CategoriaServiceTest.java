@@ -0,0 +1,114 @@
+package com.example.productapi.service;
+
+import com.example.productapi.dto.CategoriaResumoDTO;
+import com.example.productapi.exception.BusinessRuleException;
+import com.example.productapi.model.Categoria;
+import com.example.productapi.model.Produto;
+import com.example.productapi.repository.CategoriaRepository;
+import com.example.productapi.repository.ProdutoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CategoriaServiceTest {
+
+    @Mock
+    private CategoriaRepository categoriaRepository;
+
+    @Mock
+    private ProdutoRepository produtoRepository;
+
+    @InjectMocks
+    private CategoriaService categoriaService;
+
+    // spies para verificar que a coleção Categoria.produtos (lazy) nunca é acessada
+    private final Categoria eletronicos = spy(new Categoria(1L, "Eletrônicos", null));
+    private final Categoria livros = spy(new Categoria(2L, "Livros", null));
+
+    private ProdutoRepository.ContagemPorCategoria contagem(Long categoriaId, Long quantidade) {
+        return new ProdutoRepository.ContagemPorCategoria() {
+            public Long getCategoriaId() {
+                return categoriaId;
+            }
+
+            public Long getQuantidade() {
+                return quantidade;
+            }
+        };
+    }
+
+    private Produto produto(Long id, String nome, Categoria categoria) {
+        return new Produto(id, nome, new BigDecimal("10.00"), categoria, categoria.getId());
+    }
+
+    @Test
+    void incluiContagemEPreviewComEspacosNoParametro() {
+        when(categoriaRepository.findAll()).thenReturn(List.of(eletronicos, livros));
+        when(produtoRepository.contarPorCategoria()).thenReturn(List.of(contagem(1L, 5L)));
+        List<Produto> primeiros = List.of(produto(10L, "Mouse", eletronicos), produto(11L, "Notebook", eletronicos));
+        when(produtoRepository.buscarPrimeirosPorCategoria(2)).thenReturn(primeiros);
+
+        List<CategoriaResumoDTO> categorias = categoriaService.listarCategoriasComResumo(List.of("contagem", " preview "), 2);
+
+        assertThat(categorias).extracting(CategoriaResumoDTO::getQuantidadeProdutos).containsExactly(5L, 0L);
+        assertThat(categorias.get(0).getProdutos()).extracting("nome").containsExactly("Mouse", "Notebook");
+        assertThat(categorias.get(1).getProdutos()).isEmpty();
+        verify(eletronicos, never()).getProdutos();
+        verify(livros, never()).getProdutos();
+    }
+
+    @Test
+    void semIncluirNaoConsultaProdutos() {
+        when(categoriaRepository.findAll()).thenReturn(List.of(eletronicos));
+
+        List<CategoriaResumoDTO> categorias = categoriaService.listarCategoriasComResumo(null, 3);
+
+        assertThat(categorias.get(0).getQuantidadeProdutos()).isNull();
+        assertThat(categorias.get(0).getProdutos()).isNull();
+        verifyNoInteractions(produtoRepository);
+        verify(eletronicos, never()).getProdutos();
+    }
+
+    @Test
+    void valorDesconhecidoEmIncluirEhRejeitado() {
+        assertThatThrownBy(() -> categoriaService.listarCategoriasComResumo(List.of("contagem", "todos"), 3))
+                .isInstanceOf(BusinessRuleException.class);
+    }
+
+    @Test
+    void limiteForaDoIntervaloComPreviewEhRejeitado() {
+        for (int limite : new int[] {0, 21}) {
+            assertThatThrownBy(() -> categoriaService.listarCategoriasComResumo(List.of("preview"), limite))
+                    .isInstanceOf(BusinessRuleException.class);
+        }
+        verifyNoInteractions(produtoRepository);
+    }
+
+    @Test
+    void limiteEhIgnoradoSemPreview() {
+        when(categoriaRepository.findAll()).thenReturn(List.of(eletronicos));
+        when(produtoRepository.contarPorCategoria()).thenReturn(List.of(contagem(1L, 5L)));
+
+        for (int limite : new int[] {0, 21}) {
+            List<CategoriaResumoDTO> categorias = categoriaService.listarCategoriasComResumo(List.of("contagem"), limite);
+            assertThat(categorias.get(0).getQuantidadeProdutos()).isEqualTo(5L);
+            assertThat(categorias.get(0).getProdutos()).isNull();
+        }
+        verify(produtoRepository, never()).buscarPrimeirosPorCategoria(anyInt());
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.productapi.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// Utilitários dos testes de concorrência
+final class Concorrencia {
+
+    private Concorrencia() {
+    }
+
+    // Dispara todas as threads ao mesmo tempo (latch) e devolve os resultados
+    static <T> List<T> executarEmParalelo(int threads, Callable<T> tarefa) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                largada.await();
+                return tarefa.call();
+            }));
+        }
+        largada.countDown();
+        List<T> resultados = new ArrayList<>();
+        for (Future<T> future : futures) {
+            resultados.add(future.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        return resultados;
+    }
+
+    static void dormir(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
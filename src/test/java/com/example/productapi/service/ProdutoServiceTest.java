@@ -0,0 +1,146 @@
+package com.example.productapi.service;
+
+import com.example.productapi.dto.ProdutoDTO;
+import com.example.productapi.dto.ProdutoDescontoDTO;
+import com.example.productapi.dto.ProdutoFiltroDTO;
+import com.example.productapi.exception.BusinessRuleException;
+import com.example.productapi.exception.ResourceNotFoundException;
+import com.example.productapi.model.Categoria;
+import com.example.productapi.model.Produto;
+import com.example.productapi.repository.CategoriaRepository;
+import com.example.productapi.repository.ProdutoCriteriosBusca;
+import com.example.productapi.repository.ProdutoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.productapi.service.Concorrencia.dormir;
+import static com.example.productapi.service.Concorrencia.executarEmParalelo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProdutoServiceTest {
+
+    private static final int REQUISICOES = 40;
+
+    @Mock
+    private ProdutoRepository produtoRepository;
+
+    @Mock
+    private CategoriaRepository categoriaRepository;
+
+    @InjectMocks
+    private ProdutoService produtoService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(produtoService, "esperaMaximaLeitura", Duration.ofSeconds(5));
+        produtoService.iniciarLeituras();
+    }
+
+    private Produto produto() {
+        Categoria categoria = new Categoria(7L, "Eletrônicos", null);
+        Produto produto = new Produto();
+        produto.setId(1L);
+        produto.setNome("Notebook");
+        produto.setPreco(new BigDecimal("1000.00"));
+        produto.setCategoria(categoria);
+        produto.setCategoriaId(categoria.getId());
+        return produto;
+    }
+
+    @Test
+    void leiturasSimultaneasDoMesmoProdutoFazemUmaConsulta() throws Exception {
+        when(produtoRepository.findById(1L)).thenAnswer(invocacao -> {
+            dormir(300);
+            return Optional.of(produto());
+        });
+        AtomicInteger proxima = new AtomicInteger();
+
+        // metade busca por ID, metade calcula desconto: todas compartilham o mesmo findById
+        List<Object> respostas = executarEmParalelo(REQUISICOES, () ->
+                proxima.getAndIncrement() % 2 == 0
+                        ? produtoService.buscarProdutoPorId(1L)
+                        : produtoService.calcularPrecoComDesconto(1L, BigDecimal.TEN));
+
+        verify(produtoRepository, times(1)).findById(1L);
+        assertThat(respostas).hasSize(REQUISICOES);
+        assertThat(respostas).filteredOn(ProdutoDTO.class::isInstance)
+                .allSatisfy(r -> assertThat(((ProdutoDTO) r).getCategoriaId()).isEqualTo(7L));
+        assertThat(respostas).filteredOn(ProdutoDescontoDTO.class::isInstance)
+                .allSatisfy(r -> assertThat(((ProdutoDescontoDTO) r).getPrecoFinal()).isEqualByComparingTo("900.00"));
+    }
+
+    @Test
+    void leiturasSequenciaisConsultamOBancoCadaVez() {
+        when(produtoRepository.findById(1L)).thenReturn(Optional.of(produto()));
+
+        produtoService.buscarProdutoPorId(1L);
+        produtoService.buscarProdutoPorId(1L);
+
+        verify(produtoRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void filtroSemOrdenacaoNemLimiteUsaPadroes() {
+        ProdutoFiltroDTO filtro = new ProdutoFiltroDTO(BigDecimal.ONE, null, null, null, null, null, null, null);
+        ProdutoCriteriosBusca esperado = new ProdutoCriteriosBusca(null, BigDecimal.ONE, null, false, null, null, 50);
+        when(produtoRepository.buscarPorFiltro(esperado)).thenReturn(List.of(produto()));
+
+        assertThat(produtoService.listarProdutosFiltrados(filtro)).hasSize(1);
+        assertThat(filtro.getOrdenarPor()).isNull();
+        assertThat(filtro.getLimite()).isNull();
+    }
+
+    @Test
+    void cursorDaOrdenacaoPorNomeUsaONomeComoValor() {
+        ProdutoFiltroDTO filtro = new ProdutoFiltroDTO(null, null, null, "nome", null, "Notebook", 5L, 20);
+        ProdutoCriteriosBusca esperado = new ProdutoCriteriosBusca(null, null, null, true, "Notebook", 5L, 20);
+        when(produtoRepository.buscarPorFiltro(esperado)).thenReturn(List.of());
+
+        assertThat(produtoService.listarProdutosFiltrados(filtro)).isEmpty();
+    }
+
+    @Test
+    void cursorIncompletoOuDoCampoErradoEhRejeitado() {
+        List<ProdutoFiltroDTO> filtros = List.of(
+                // valor sem aposId
+                new ProdutoFiltroDTO(null, null, null, "preco", BigDecimal.TEN, null, null, null),
+                // aposId sem valor
+                new ProdutoFiltroDTO(null, null, null, "nome", null, null, 5L, null),
+                // aposNome com ordenação por preço
+                new ProdutoFiltroDTO(null, null, null, "preco", BigDecimal.TEN, "Notebook", 5L, null),
+                new ProdutoFiltroDTO(null, null, null, null, null, "Notebook", 5L, null));
+
+        for (ProdutoFiltroDTO filtro : filtros) {
+            assertThatThrownBy(() -> produtoService.listarProdutosFiltrados(filtro))
+                    .isInstanceOf(BusinessRuleException.class);
+        }
+        verify(produtoRepository, never()).buscarPorFiltro(any());
+    }
+
+    @Test
+    void categoriaInexistenteNoFiltroRetorna404() {
+        when(categoriaRepository.existsById(99L)).thenReturn(false);
+        ProdutoFiltroDTO filtro = new ProdutoFiltroDTO(null, null, 99L, null, null, null, null, null);
+
+        assertThatThrownBy(() -> produtoService.listarProdutosFiltrados(filtro))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.productapi.service;
+
+import com.example.productapi.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.example.productapi.service.Concorrencia.dormir;
+import static com.example.productapi.service.Concorrencia.executarEmParalelo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int THREADS = 50;
+
+    // Supplier que conta as chamadas e demora, simulando a consulta ao banco
+    private Supplier<String> consultaLenta(AtomicInteger chamadas, long millis) {
+        return () -> {
+            chamadas.incrementAndGet();
+            dormir(millis);
+            return "valor";
+        };
+    }
+
+    @Test
+    void chamadasSimultaneasParaMesmaChaveExecutamUmaVez() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        AtomicInteger chamadas = new AtomicInteger();
+
+        List<String> resultados = executarEmParalelo(THREADS, () -> singleFlight.executar(1L, consultaLenta(chamadas, 300)));
+
+        assertThat(chamadas.get()).isEqualTo(1);
+        assertThat(resultados).hasSize(THREADS).containsOnly("valor");
+    }
+
+    @Test
+    void chavesDiferentesNaoCompartilhamLeitura() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        AtomicInteger chamadas = new AtomicInteger();
+        AtomicInteger proximaChave = new AtomicInteger();
+
+        executarEmParalelo(THREADS, () ->
+                singleFlight.executar((long) (proximaChave.getAndIncrement() % 2), consultaLenta(chamadas, 300)));
+
+        assertThat(chamadas.get()).isEqualTo(2);
+    }
+
+    @Test
+    void naoGuardaResultadoDepoisQueALeituraTermina() {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        AtomicInteger chamadas = new AtomicInteger();
+
+        singleFlight.executar(1L, consultaLenta(chamadas, 0));
+        singleFlight.executar(1L, consultaLenta(chamadas, 0));
+
+        assertThat(chamadas.get()).isEqualTo(2);
+    }
+
+    @Test
+    void excecaoDoLiderChegaATodosQueAguardam() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        AtomicInteger chamadas = new AtomicInteger();
+        AtomicInteger falhas = new AtomicInteger();
+
+        executarEmParalelo(THREADS, () -> {
+            try {
+                return singleFlight.executar(1L, () -> {
+                    chamadas.incrementAndGet();
+                    dormir(300);
+                    throw new IllegalArgumentException("falhou");
+                });
+            } catch (IllegalArgumentException e) {
+                falhas.incrementAndGet();
+                return null;
+            }
+        });
+
+        assertThat(chamadas.get()).isEqualTo(1);
+        assertThat(falhas.get()).isEqualTo(THREADS);
+    }
+
+    @Test
+    void esperaEsgotadaFalhaSemNovaConsulta() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofMillis(50));
+        AtomicInteger chamadas = new AtomicInteger();
+        CountDownLatch liderIniciou = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> lider = executor.submit(() -> singleFlight.executar(1L, () -> {
+            chamadas.incrementAndGet();
+            liderIniciou.countDown();
+            dormir(500);
+            return "valor";
+        }));
+        liderIniciou.await();
+
+        assertThatThrownBy(() -> singleFlight.executar(1L, consultaLenta(chamadas, 0)))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(lider.get()).isEqualTo("valor");
+        assertThat(chamadas.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+}